@@ -7,6 +7,8 @@ import org.springframework.http.MediaType;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +26,13 @@ public class MovieController {
     // Simple in-memory store (will be replaced by a database later)
     private static final Map<Long, Movie> STORE = new ConcurrentHashMap<>();
     private static final AtomicLong ID_SEQ = new AtomicLong(1);
+    // Reads take the read lock and writes the write lock, so a bulk change is never seen half-applied.
+    // Responses carry copies so serialization after unlocking can't race a later write.
+    private static final ReadWriteLock LOCK = new ReentrantReadWriteLock();
+
+    static final int MAX_MULTI_GET_IDS = 1000;
+    static final int MIN_RATING = 0;
+    static final int MAX_RATING = 5;
 
     /**
      * GET /api/Movies
@@ -31,11 +40,17 @@ public class MovieController {
      */
     @GetMapping
     public ResponseEntity<List<Movie>> getAll() {
-        List<Movie> Movies = STORE.values()
-                .stream()
-                .sorted(Comparator.comparing(Movie::getId))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(Movies);
+        LOCK.readLock().lock();
+        try {
+            List<Movie> Movies = STORE.values()
+                    .stream()
+                    .sorted(Comparator.comparing(Movie::getId))
+                    .map(MovieController::copyOf)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(Movies);
+        } finally {
+            LOCK.readLock().unlock();
+        }
     }
 
     /**
@@ -45,26 +60,44 @@ public class MovieController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<Movie> getById(@PathVariable Long id) {
-        Movie movie = STORE.get(id);
-        if (movie == null) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        LOCK.readLock().lock();
+        try {
+            Movie movie = STORE.get(id);
+            if (movie == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
+            return ResponseEntity.ok(copyOf(movie));
+        } finally {
+            LOCK.readLock().unlock();
         }
-        return ResponseEntity.ok(movie);
     }
 
     /**
      * POST /api/Movies
      * Creates a new Movie
      * - Validate required fields (Title)
+     * - Return 400 if rating is outside MIN_RATING..MAX_RATING
      * - Reject duplicates by Title (409 Conflict)
      */
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Movie> create(@RequestBody Movie movie) {
+        LOCK.writeLock().lock();
+        try {
+            return createLocked(movie);
+        } finally {
+            LOCK.writeLock().unlock();
+        }
+    }
+
+    private ResponseEntity<Movie> createLocked(Movie movie) {
         System.out.println(movie);
         // Validate Title
         if (movie.getTitle() == null || movie.getTitle().isBlank()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
+        if (!isValidRating(movie.getRating())) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
         // Enforce uniqueness by Title
         boolean duplicate = STORE.values().stream()
                 .anyMatch(existing -> Objects.equals(existing.getTitle(), movie.getTitle()));
@@ -78,22 +111,35 @@ public class MovieController {
         toSave.setId(id);
         toSave.setTitle(movie.getTitle());
         toSave.setDescription(movie.getDescription());
+        toSave.setDirector(movie.getDirector());
+        toSave.setYear(movie.getYear());
+        toSave.setRating(movie.getRating());
         toSave.setWatched(movie.isWatched());
         // Keep server-controlled createdAt from constructor; do not override from client
 
         STORE.put(id, toSave);
-        return ResponseEntity.status(HttpStatus.CREATED).body(toSave);
+        return ResponseEntity.status(HttpStatus.CREATED).body(copyOf(toSave));
     }
 
     /**
      * PUT /api/Movies/{id}
-     * Updates an existing Movie
+     * Updates an existing Movie (full replace: omitted fields fall back to their defaults)
      * - Validate required fields (Title)
+     * - Return 400 if rating is outside MIN_RATING..MAX_RATING
      * - Return 404 if Movie doesn't exist
      * - Reject duplicates by Title (409 Conflict) if changing to an existing Title
      */
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Movie> update(@PathVariable Long id, @RequestBody Movie update) {
+        LOCK.writeLock().lock();
+        try {
+            return updateLocked(id, update);
+        } finally {
+            LOCK.writeLock().unlock();
+        }
+    }
+
+    private ResponseEntity<Movie> updateLocked(Long id, Movie update) {
         Movie existing = STORE.get(id);
         System.out.println(update);
         if (existing == null) {
@@ -102,6 +148,9 @@ public class MovieController {
         if (update.getTitle() == null || update.getTitle().isBlank()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
+        if (!isValidRating(update.getRating())) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
         // Prevent changing to a Title that duplicates another Movie's Title
         boolean duplicateTitle = STORE.values().stream()
                 .anyMatch(other -> !Objects.equals(other.getId(), id)
@@ -112,10 +161,13 @@ public class MovieController {
 
         existing.setTitle(update.getTitle());
         existing.setDescription(update.getDescription());
+        existing.setDirector(update.getDirector());
+        existing.setYear(update.getYear());
+        existing.setRating(update.getRating());
         existing.setWatched(update.isWatched());
         // Keep original createdAt (ignore client-sent value)
 
-        return ResponseEntity.ok(existing);
+        return ResponseEntity.ok(copyOf(existing));
     }
 
     /**
@@ -126,7 +178,13 @@ public class MovieController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
-        Movie removed = STORE.remove(id);
+        Movie removed;
+        LOCK.writeLock().lock();
+        try {
+            removed = STORE.remove(id);
+        } finally {
+            LOCK.writeLock().unlock();
+        }
         if (removed == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
@@ -144,16 +202,174 @@ public class MovieController {
             return ResponseEntity.badRequest().build();
         }
         String query = Title.toLowerCase(Locale.ROOT);
-        List<Movie> results = STORE.values().stream()
-                .filter(it -> it.getTitle() != null && it.getTitle().toLowerCase(Locale.ROOT).contains(query))
-                .sorted(Comparator.comparing(Movie::getId))
-                .collect(Collectors.toList());
+        LOCK.readLock().lock();
+        try {
+            List<Movie> results = STORE.values().stream()
+                    .filter(it -> it.getTitle() != null && it.getTitle().toLowerCase(Locale.ROOT).contains(query))
+                    .sorted(Comparator.comparing(Movie::getId))
+                    .map(MovieController::copyOf)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(results);
+        } finally {
+            LOCK.readLock().unlock();
+        }
+    }
+
+    /**
+     * POST /api/Movies/multi-get
+     * Returns the Movies for a list of IDs in one request
+     * - Results follow the order of the requested IDs
+     * - Unknown and repeated IDs are skipped
+     * - Return 400 if the list is missing, contains a null, or has more than MAX_MULTI_GET_IDS entries
+     */
+    @PostMapping(value = "/multi-get", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<Movie>> multiGet(@RequestBody List<Long> ids) {
+        if (ids == null || ids.size() > MAX_MULTI_GET_IDS || ids.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Movie> results = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        LOCK.readLock().lock();
+        try {
+            for (Long id : ids) {
+                if (!seen.add(id)) {
+                    continue;
+                }
+                Movie movie = STORE.get(id);
+                if (movie != null) {
+                    results.add(copyOf(movie));
+                }
+            }
+        } finally {
+            LOCK.readLock().unlock();
+        }
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * POST /api/Movies/bulk-update
+     * Sets watched and/or rating on every Movie matching the filter
+     * Body: {"filter":{...},"watched":true,"rating":5}
+     * - Return 400 if the filter is empty or nothing is being set
+     * - Return 400 if rating is outside MIN_RATING..MAX_RATING
+     * - Applied in a single pass under the write lock, so readers see all or none of it
+     * - Returns the number of Movies affected
+     */
+    @PostMapping(value = "/bulk-update", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkResult> bulkUpdate(@RequestBody BulkUpdateRequest request) {
+        if (request == null || request.filter() == null || request.filter().isEmpty()
+                || (request.watched() == null && request.rating() == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (request.rating() != null && !isValidRating(request.rating())) {
+            return ResponseEntity.badRequest().build();
+        }
+        int affected = 0;
+        LOCK.writeLock().lock();
+        try {
+            for (Movie movie : STORE.values()) {
+                if (!request.filter().matches(movie)) {
+                    continue;
+                }
+                if (request.watched() != null) {
+                    movie.setWatched(request.watched());
+                }
+                if (request.rating() != null) {
+                    movie.setRating(request.rating());
+                }
+                affected++;
+            }
+        } finally {
+            LOCK.writeLock().unlock();
+        }
+        return ResponseEntity.ok(new BulkResult(affected));
+    }
+
+    /**
+     * POST /api/Movies/bulk-delete
+     * Deletes every Movie matching the filter
+     * Body: {"filter":{...}} (same shape as bulk-update)
+     * - Return 400 if the filter is empty (use DELETE per id to remove everything)
+     * - Returns the number of Movies deleted
+     */
+    @PostMapping(value = "/bulk-delete", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkResult> bulkDelete(@RequestBody BulkDeleteRequest request) {
+        if (request == null || request.filter() == null || request.filter().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        int affected = 0;
+        LOCK.writeLock().lock();
+        try {
+            Iterator<Movie> it = STORE.values().iterator();
+            while (it.hasNext()) {
+                if (request.filter().matches(it.next())) {
+                    it.remove();
+                    affected++;
+                }
+            }
+        } finally {
+            LOCK.writeLock().unlock();
+        }
+        return ResponseEntity.ok(new BulkResult(affected));
+    }
+
+    /**
+     * Filter for bulk operations. Every non-null field must match;
+     * title is a case-insensitive contains like the search endpoint.
+     */
+    public record MovieFilter(String title, String director, Integer year, Boolean watched) {
+
+        boolean isEmpty() {
+            return title == null && director == null && year == null && watched == null;
+        }
+
+        boolean matches(Movie movie) {
+            if (title != null && (movie.getTitle() == null
+                    || !movie.getTitle().toLowerCase(Locale.ROOT).contains(title.toLowerCase(Locale.ROOT)))) {
+                return false;
+            }
+            if (director != null && !director.equals(movie.getDirector())) {
+                return false;
+            }
+            if (year != null && year != movie.getYear()) {
+                return false;
+            }
+            return watched == null || watched == movie.isWatched();
+        }
+    }
+
+    /** Body for bulk-update: which Movies to touch and the values to set. */
+    public record BulkUpdateRequest(MovieFilter filter, Boolean watched, Integer rating) {
+    }
+
+    /** Body for bulk-delete: which Movies to remove. */
+    public record BulkDeleteRequest(MovieFilter filter) {
+    }
+
+    /** Response for bulk operations. */
+    public record BulkResult(int affected) {
+    }
+
+    private static boolean isValidRating(int rating) {
+        return rating >= MIN_RATING && rating <= MAX_RATING;
+    }
+
+    private static Movie copyOf(Movie movie) {
+        Movie copy = new Movie(movie.getDescription(), movie.getTitle(), movie.getDirector(),
+                movie.getYear(), movie.getRating(), movie.isWatched());
+        copy.setId(movie.getId());
+        copy.setCreatedAt(movie.getCreatedAt());
+        return copy;
+    }
+
     // Test helper method - only for testing purposes
     static void clearStore() {
-        STORE.clear();
-        ID_SEQ.set(1);
+        LOCK.writeLock().lock();
+        try {
+            STORE.clear();
+            ID_SEQ.set(1);
+        } finally {
+            LOCK.writeLock().unlock();
+        }
     }
 }
\ No newline at end of file
@@ -11,6 +11,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -342,4 +350,287 @@ class MovieControllerTest {
                     .andExpect(jsonPath("$[?(@.title == 'Application')]").exists());
         }
     }
+    
+    @Nested
+    @DisplayName("Bulk Operations")
+    class BulkMovies {
+
+        private Long createMovie(String title, String director, boolean watched) throws Exception {
+            Movie movie = new Movie("Description", title, director, 2000, 0, watched);
+            String response = mockMvc.perform(post("/api/Movies")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(movie)))
+                    .andExpect(status().isCreated())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            return objectMapper.readValue(response, Movie.class).getId();
+        }
+
+        @Test
+        @DisplayName("should return requested Movies in order and skip unknown IDs")
+        void shouldMultiGetMovies() throws Exception {
+            Long first = createMovie("Alien", "Ridley Scott", false);
+            Long second = createMovie("Heat", "Michael Mann", false);
+
+            mockMvc.perform(post("/api/Movies/multi-get")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(List.of(second, 999999L, first, second))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].title").value("Heat"))
+                    .andExpect(jsonPath("$[1].title").value("Alien"));
+        }
+
+        @Test
+        @DisplayName("should update every Movie matching the filter")
+        void shouldBulkUpdateMatchingMovies() throws Exception {
+            Long alien = createMovie("Alien", "Ridley Scott", false);
+            createMovie("Gladiator", "Ridley Scott", false);
+            Long heat = createMovie("Heat", "Michael Mann", false);
+
+            mockMvc.perform(post("/api/Movies/bulk-update")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"filter":{"director":"Ridley Scott"},"watched":true,"rating":5}"""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected").value(2));
+
+            mockMvc.perform(get("/api/Movies/{id}", alien))
+                    .andExpect(jsonPath("$.watched").value(true))
+                    .andExpect(jsonPath("$.rating").value(5));
+            mockMvc.perform(get("/api/Movies/{id}", heat))
+                    .andExpect(jsonPath("$.watched").value(false))
+                    .andExpect(jsonPath("$.rating").value(0));
+        }
+
+        @Test
+        @DisplayName("should return 400 for bulk update with empty filter")
+        void shouldRejectBulkUpdateWithoutFilter() throws Exception {
+            mockMvc.perform(post("/api/Movies/bulk-update")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"filter":{},"watched":true}"""))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should delete every Movie matching the filter")
+        void shouldBulkDeleteMatchingMovies() throws Exception {
+            createMovie("Alien", "Ridley Scott", true);
+            createMovie("Gladiator", "Ridley Scott", false);
+            createMovie("Heat", "Michael Mann", true);
+
+            mockMvc.perform(post("/api/Movies/bulk-delete")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"filter":{"watched":true}}"""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected").value(2));
+
+            mockMvc.perform(get("/api/Movies"))
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].title").value("Gladiator"));
+        }
+
+        @Test
+        @DisplayName("should persist director, year and rating on create")
+        void shouldPersistExtraFieldsOnCreate() throws Exception {
+            Movie movie = new Movie("Description", "Alien", "Ridley Scott", 1979, 4, false);
+
+            mockMvc.perform(post("/api/Movies")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(movie)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.director").value("Ridley Scott"))
+                    .andExpect(jsonPath("$.year").value(1979))
+                    .andExpect(jsonPath("$.rating").value(4));
+        }
+
+        @Test
+        @DisplayName("should replace director, year and rating on PUT")
+        void shouldReplaceAllFieldsOnPut() throws Exception {
+            Long alien = createMovie("Alien", "Ridely Scott", false);
+
+            mockMvc.perform(put("/api/Movies/{id}", alien)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"title":"Alien","director":"Ridley Scott","year":1979,"rating":5,"watched":true}"""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.director").value("Ridley Scott"))
+                    .andExpect(jsonPath("$.year").value(1979))
+                    .andExpect(jsonPath("$.rating").value(5))
+                    .andExpect(jsonPath("$.watched").value(true));
+
+            mockMvc.perform(post("/api/Movies/bulk-update")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"filter":{"director":"Ridley Scott"},"watched":false}"""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected").value(1));
+        }
+
+        @Test
+        @DisplayName("should only accept ratings from 0 to 5 on create and update")
+        void shouldValidateRatingOnCreateAndUpdate() throws Exception {
+            mockMvc.perform(post("/api/Movies")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"title":"Alien","rating":42}"""))
+                    .andExpect(status().isBadRequest());
+
+            Long alien = createMovie("Alien", "Ridley Scott", false);
+            mockMvc.perform(put("/api/Movies/{id}", alien)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"title":"Alien","rating":-1}"""))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return 400 for multi-get with a null id")
+        void shouldRejectMultiGetWithNullId() throws Exception {
+            mockMvc.perform(post("/api/Movies/multi-get")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[1, null]"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return 400 for multi-get above the id limit")
+        void shouldRejectMultiGetAboveLimit() throws Exception {
+            List<Long> ids = new ArrayList<>();
+            for (long id = 1; id <= MovieController.MAX_MULTI_GET_IDS; id++) {
+                ids.add(id);
+            }
+
+            mockMvc.perform(post("/api/Movies/multi-get")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(ids)))
+                    .andExpect(status().isOk());
+
+            ids.add(MovieController.MAX_MULTI_GET_IDS + 1L);
+            mockMvc.perform(post("/api/Movies/multi-get")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(ids)))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return 400 for bulk update without a filter")
+        void shouldRejectBulkUpdateWithMissingFilter() throws Exception {
+            mockMvc.perform(post("/api/Movies/bulk-update")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"watched":true}"""))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return 400 for bulk update with nothing to set")
+        void shouldRejectBulkUpdateWithoutValues() throws Exception {
+            mockMvc.perform(post("/api/Movies/bulk-update")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"filter":{"director":"Ridley Scott"}}"""))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should only accept ratings from 0 to 5 in bulk update")
+        void shouldValidateBulkUpdateRating() throws Exception {
+            createMovie("Alien", "Ridley Scott", false);
+
+            for (int rating : new int[]{-1, 6}) {
+                mockMvc.perform(post("/api/Movies/bulk-update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\":{\"director\":\"Ridley Scott\"},\"rating\":" + rating + "}"))
+                        .andExpect(status().isBadRequest());
+            }
+            for (int rating : new int[]{0, 5}) {
+                mockMvc.perform(post("/api/Movies/bulk-update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\":{\"director\":\"Ridley Scott\"},\"rating\":" + rating + "}"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.affected").value(1));
+            }
+        }
+
+        @Test
+        @DisplayName("should return 400 for bulk delete with empty filter")
+        void shouldRejectBulkDeleteWithoutFilter() throws Exception {
+            createMovie("Alien", "Ridley Scott", true);
+
+            mockMvc.perform(post("/api/Movies/bulk-delete")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"filter":{}}"""))
+                    .andExpect(status().isBadRequest());
+
+            mockMvc.perform(get("/api/Movies"))
+                    .andExpect(jsonPath("$", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("should never expose a half-applied bulk update to readers")
+        void shouldNotExposePartialBulkUpdate() throws Exception {
+            for (int i = 0; i < 200; i++) {
+                createMovie("Movie " + i, "Same Director", false);
+            }
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicBoolean writerDone = new AtomicBoolean(false);
+            AtomicInteger overlappingReads = new AtomicInteger();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+
+            Thread writer = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        boolean watched = i % 2 == 0;
+                        mockMvc.perform(post("/api/Movies/bulk-update")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"filter\":{\"director\":\"Same Director\"},\"watched\":" + watched
+                                        + ",\"rating\":" + (watched ? 5 : 0) + "}"))
+                                .andExpect(status().isOk());
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    writerDone.set(true);
+                }
+            });
+            Thread reader = new Thread(() -> {
+                try {
+                    start.await();
+                    while (!writerDone.get() && failure.get() == null) {
+                        String response = mockMvc.perform(get("/api/Movies"))
+                                .andExpect(status().isOk())
+                                .andReturn()
+                                .getResponse()
+                                .getContentAsString();
+                        if (!writerDone.get()) {
+                            overlappingReads.incrementAndGet();
+                        }
+                        Movie[] movies = objectMapper.readValue(response, Movie[].class);
+                        boolean watched = movies[0].isWatched();
+                        for (Movie movie : movies) {
+                            if (movie.isWatched() != watched || movie.getRating() != (watched ? 5 : 0)) {
+                                throw new AssertionError("Saw a partial bulk update at " + movie);
+                            }
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            });
+            writer.start();
+            reader.start();
+            start.countDown();
+            writer.join();
+            reader.join();
+
+            assertThat(failure.get()).isNull();
+            assertThat(overlappingReads.get()).isPositive();
+        }
+    }
 }
\ No newline at end of file